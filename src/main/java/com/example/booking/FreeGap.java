@@ -0,0 +1,36 @@
+package com.example.booking;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+/**
+ * A free stretch of one room's calendar between two stays. {@link LocalDate#MIN}
+ * and {@link LocalDate#MAX} stand for the open ends before the first and after
+ * the last stay.
+ */
+@Value
+class FreeGap {
+    static final Comparator<FreeGap> BY_START = Comparator.comparing(FreeGap::getStart)
+            .thenComparing(FreeGap::getEnd)
+            .thenComparingInt(FreeGap::getRoom)
+            .thenComparingLong(FreeGap::getSeq);
+
+    int room;
+    LocalDate start;
+    LocalDate end;
+    // tells apart equal gaps of one room, e.g. two empty ones around same-day stays
+    long seq;
+
+    long length() {
+        return ChronoUnit.DAYS.between(start, end);
+    }
+
+    static FreeGap probe(LocalDate start, LocalDate end, boolean last) {
+        return last
+                ? new FreeGap(Integer.MAX_VALUE, start, end, Long.MAX_VALUE)
+                : new FreeGap(Integer.MIN_VALUE, start, end, Long.MIN_VALUE);
+    }
+}
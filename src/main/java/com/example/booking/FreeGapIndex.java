@@ -0,0 +1,78 @@
+package com.example.booking;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Free gaps of all rooms of one type. Gaps between two stays are bucketed by
+ * length, so the shortest one holding a stay is found by trying each distinct
+ * length once instead of looking at every room. Gaps open on one or both ends
+ * are kept apart and only used when no bounded gap fits.
+ */
+final class FreeGapIndex {
+    private final NavigableMap<Long, NavigableSet<FreeGap>> bounded = new TreeMap<>();
+    private final NavigableSet<FreeGap> beforeFirstStay = new TreeSet<>(FreeGap.BY_START);
+    private final NavigableSet<FreeGap> afterLastStay = new TreeSet<>(FreeGap.BY_START);
+    private final NavigableSet<FreeGap> emptyRooms = new TreeSet<>(FreeGap.BY_START);
+
+    void add(FreeGap gap) {
+        if (isBounded(gap)) {
+            bounded.computeIfAbsent(gap.length(), k -> new TreeSet<>(FreeGap.BY_START)).add(gap);
+        } else {
+            openSet(gap).add(gap);
+        }
+    }
+
+    void remove(FreeGap gap) {
+        if (!isBounded(gap)) {
+            openSet(gap).remove(gap);
+            return;
+        }
+        NavigableSet<FreeGap> sameLength = bounded.get(gap.length());
+        if (sameLength != null && sameLength.remove(gap) && sameLength.isEmpty()) {
+            bounded.remove(gap.length());
+        }
+    }
+
+    /**
+     * Returns the shortest gap that holds the stay, or null if no room is free.
+     * A gap of length n holds it if it starts no earlier than n days before
+     * {@code to} and no later than {@code from}, so the first length with such
+     * a gap is the best fit. Otherwise the open gap leaving the fewest days free
+     * next to the stay wins, and rooms with no stays come last.
+     */
+    FreeGap bestFit(LocalDate from, LocalDate to) {
+        long nights = ChronoUnit.DAYS.between(from, to);
+        for (Map.Entry<Long, NavigableSet<FreeGap>> sameLength : bounded.tailMap(nights, true).entrySet()) {
+            LocalDate earliestStart = to.minusDays(sameLength.getKey());
+            FreeGap gap = sameLength.getValue().ceiling(FreeGap.probe(earliestStart, LocalDate.MIN, false));
+            if (gap != null && !gap.getStart().isAfter(from)) {
+                return gap;
+            }
+        }
+
+        FreeGap before = beforeFirstStay.ceiling(FreeGap.probe(LocalDate.MIN, to, false));
+        FreeGap after = afterLastStay.floor(FreeGap.probe(from, LocalDate.MAX, true));
+        if (before != null && after != null) {
+            return ChronoUnit.DAYS.between(to, before.getEnd()) <= ChronoUnit.DAYS.between(after.getStart(), from)
+                    ? before : after;
+        }
+        if (before != null) return before;
+        if (after != null) return after;
+        return emptyRooms.isEmpty() ? null : emptyRooms.first();
+    }
+
+    private static boolean isBounded(FreeGap gap) {
+        return !gap.getStart().equals(LocalDate.MIN) && !gap.getEnd().equals(LocalDate.MAX);
+    }
+
+    private NavigableSet<FreeGap> openSet(FreeGap gap) {
+        if (!gap.getStart().equals(LocalDate.MIN)) return afterLastStay;
+        return gap.getEnd().equals(LocalDate.MAX) ? emptyRooms : beforeFirstStay;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.booking;
+
+import com.example.booking.models.Reservation;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Stays of one room and the free gaps between consecutive ones. Stays never
+ * overlap, so sorted by start their ends grow too, and the room is free for a
+ * stay exactly when the last gap starting on or before it reaches its end.
+ * Every gap is mirrored into the index of the room's type while the room is
+ * in the hotel.
+ */
+final class RoomCalendar {
+    private static final Comparator<Reservation> BY_STAY = Comparator.comparing(Reservation::getFrom)
+            .thenComparing(Reservation::getTo)
+            .thenComparing(Reservation::getId);
+
+    private final int room;
+    private final NavigableSet<Reservation> stays = new TreeSet<>(BY_STAY);
+    private final NavigableSet<FreeGap> gaps = new TreeSet<>(FreeGap.BY_START);
+    // gap following each stay; the null key holds the gap before the first stay
+    private final Map<Reservation, FreeGap> gapAfter = new HashMap<>();
+    private FreeGapIndex index;
+    private long nextSeq;
+
+    RoomCalendar(int room) {
+        this.room = room;
+        putGap(null, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    void attach(FreeGapIndex index) {
+        this.index = index;
+        for (FreeGap gap : gaps) index.add(gap);
+    }
+
+    void detach() {
+        for (FreeGap gap : gaps) index.remove(gap);
+        index = null;
+    }
+
+    boolean isFree(LocalDate from, LocalDate to) {
+        FreeGap gap = gaps.floor(FreeGap.probe(from, LocalDate.MAX, true));
+        return gap != null && !gap.getEnd().isBefore(to);
+    }
+
+    void book(Reservation reservation) {
+        if (!stays.add(reservation)) return;
+        Reservation previous = stays.lower(reservation);
+        Reservation next = stays.higher(reservation);
+
+        putGap(previous, previous == null ? LocalDate.MIN : previous.getTo(), reservation.getFrom());
+        putGap(reservation, reservation.getTo(), next == null ? LocalDate.MAX : next.getFrom());
+    }
+
+    void cancel(Reservation reservation) {
+        if (!stays.contains(reservation)) return;
+        Reservation previous = stays.lower(reservation);
+        Reservation next = stays.higher(reservation);
+
+        removeGap(gapAfter.remove(reservation));
+        putGap(previous, previous == null ? LocalDate.MIN : previous.getTo(),
+                next == null ? LocalDate.MAX : next.getFrom());
+        stays.remove(reservation);
+    }
+
+    private void putGap(Reservation after, LocalDate start, LocalDate end) {
+        FreeGap gap = new FreeGap(room, start, end, nextSeq++);
+        removeGap(gapAfter.put(after, gap));
+        gaps.add(gap);
+        if (index != null) index.add(gap);
+    }
+
+    private void removeGap(FreeGap gap) {
+        if (gap == null) return;
+        gaps.remove(gap);
+        if (index != null) index.remove(gap);
+    }
+}
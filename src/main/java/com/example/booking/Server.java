@@ -7,7 +7,10 @@ import com.example.booking.models.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class Server {
     private static Server instance;
@@ -16,13 +19,28 @@ public final class Server {
     private final List<Room> rooms;
     private final List<Reservation> reservations;
 
+    // lookups for the booking path, so it doesn't scan every user and room under the lock
+    private final Map<String, User> usersById;
+    private final Map<Integer, Room> roomsByNumber;
+    private final Map<RoomType, List<Room>> roomsByType;
+
+    // room number -> stays and the free gaps between them; kept after a room is deleted, like its reservations
+    private final Map<Integer, RoomCalendar> calendars;
+    // free gaps of the rooms currently in the hotel, per type, for best-fit assignment
+    private final Map<RoomType, FreeGapIndex> freeGaps;
+
     private Server() {
         this.users = new ArrayList<>();
         this.rooms = new ArrayList<>();
         this.reservations = new ArrayList<>();
+        this.usersById = new HashMap<>();
+        this.roomsByNumber = new HashMap<>();
+        this.roomsByType = new EnumMap<>(RoomType.class);
+        this.calendars = new HashMap<>();
+        this.freeGaps = new EnumMap<>(RoomType.class);
     }
 
-    public static Server getInstance() {
+    public static synchronized Server getInstance() {
         if (instance == null) {
             instance = new Server();
             instance.migrateStockData();
@@ -54,89 +72,133 @@ public final class Server {
                                 ));
     }
 
-    public List<User> getUsers() {
-        return Collections.unmodifiableList(users);
+    public synchronized List<User> getUsers() {
+        return Collections.unmodifiableList(new ArrayList<>(users));
     }
 
-    public List<Room> getRooms() {
-        return Collections.unmodifiableList(rooms);
+    public synchronized List<Room> getRooms() {
+        return Collections.unmodifiableList(new ArrayList<>(rooms));
     }
 
-    public List<Reservation> getReservations() {
-        return Collections.unmodifiableList(reservations);
+    public synchronized List<Reservation> getReservations() {
+        return Collections.unmodifiableList(new ArrayList<>(reservations));
     }
 
-    public void addUser(User user) {
+    public synchronized void addUser(User user) {
         users.add(user);
+        usersById.put(user.getId(), user);
     }
 
-    public void addRoom(Room room) throws IllegalArgumentException {
+    public synchronized void addRoom(Room room) throws IllegalArgumentException {
         if (containsRoomWithId(room.getNumber())) {
             throw new IllegalArgumentException("Room with number " + room.getNumber() + " already exists.");
         }
         rooms.add(room);
+        roomsByNumber.put(room.getNumber(), room);
+        roomsByType.computeIfAbsent(room.getType(), k -> new ArrayList<>()).add(room);
+        calendars.computeIfAbsent(room.getNumber(), RoomCalendar::new)
+                .attach(freeGaps.computeIfAbsent(room.getType(), k -> new FreeGapIndex()));
     }
 
-    public void addReservation(Reservation reservation) throws IllegalArgumentException {
+    public synchronized void addReservation(Reservation reservation) throws IllegalArgumentException {
         if (!containsUserWithId(reservation.getUserId())) {
             throw new IllegalArgumentException("User with ID " + reservation.getUserId() + " does not exist.");
         }
         if (!containsRoomWithId(reservation.getRoomId())) {
             throw new IllegalArgumentException("Room with number " + reservation.getRoomId() + " does not exist.");
         }
-        if (reservation.getFrom().isAfter(reservation.getTo())) {
-            throw new IllegalArgumentException("Start date cannot be after end date.");
-        }
-        if (reservation.getFrom().isBefore(LocalDate.now())) {
-            throw new IllegalArgumentException("Start date cannot be in the past.");
-        }
+        validateDates(reservation.getFrom(), reservation.getTo());
         if (isRoomOccupied(reservation.getRoomId(), reservation.getFrom(), reservation.getTo())) {
             throw new IllegalArgumentException("Room " + reservation.getRoomId() +
                     " is already occupied from " + reservation.getFrom() + " to " + reservation.getTo());
         }
 
-        reservations.add(reservation);
+        book(reservation);
     }
 
-    private boolean isRoomOccupied(int roomId, LocalDate from, LocalDate to) {
-        for (Reservation existingReservation : reservations) {
-            if (existingReservation.getRoomId() == roomId) {
-                if (from.isBefore(existingReservation.getTo()) &&
-                        to.isAfter(existingReservation.getFrom())) {
-                    return true;
-                }
+    /**
+     * Books a free room of the given type, picking the one whose neighbouring stays
+     * leave the smallest gaps around the new one (best fit), so short free windows
+     * are filled before rooms with long open stretches get fragmented.
+     */
+    public synchronized Reservation assignAndReserve(String userId, RoomType type, LocalDate from, LocalDate to)
+            throws IllegalArgumentException {
+        if (!containsUserWithId(userId)) {
+            throw new IllegalArgumentException("User with ID " + userId + " does not exist.");
+        }
+        validateDates(from, to);
+
+        FreeGapIndex index = freeGaps.get(type);
+        FreeGap gap = index == null ? null : index.bestFit(from, to);
+        if (gap == null) {
+            throw new IllegalArgumentException("No " + type + " room is free from " + from + " to " + to);
+        }
+
+        Reservation reservation = new Reservation(userId, gap.getRoom(), from, to);
+        book(reservation);
+        return reservation;
+    }
+
+    public synchronized List<Room> getFreeRooms(RoomType type, LocalDate from, LocalDate to) {
+        List<Room> freeRooms = new ArrayList<>();
+        for (Room room : roomsByType.getOrDefault(type, List.of())) {
+            if (!isRoomOccupied(room.getNumber(), from, to)) {
+                freeRooms.add(room);
             }
         }
-        return false;
+        return Collections.unmodifiableList(freeRooms);
     }
 
-    public void deleteUser(User user) {
-        users.remove(user);
+    private void validateDates(LocalDate from, LocalDate to) throws IllegalArgumentException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
+        }
+        if (from.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Start date cannot be in the past.");
+        }
     }
 
-    public void deleteRoom(Room room) {
-        rooms.remove(room);
+    private void book(Reservation reservation) {
+        reservations.add(reservation);
+        calendars.get(reservation.getRoomId()).book(reservation);
     }
 
-    public void deleteReservation(Reservation reservation) {
-        reservations.remove(reservation);
+    private boolean isRoomOccupied(int roomId, LocalDate from, LocalDate to) {
+        return !calendars.get(roomId).isFree(from, to);
     }
 
-    public boolean containsUserWithId(String id) {
-        for (User user : users) {
-            if (user.getId().equals(id)) return true;
+    public synchronized void deleteUser(User user) {
+        if (!users.remove(user)) return;
+
+        for (User remaining : users) {
+            if (remaining.getId().equals(user.getId())) return;
         }
-        return false;
+        usersById.remove(user.getId());
     }
 
-    public boolean containsRoomWithId(int id) {
-        for (Room room : rooms) {
-            if (room.getNumber() == id) return true;
-        }
-        return false;
+    public synchronized void deleteRoom(Room room) {
+        if (!rooms.remove(room)) return;
+
+        roomsByNumber.remove(room.getNumber());
+        roomsByType.get(room.getType()).removeIf(r -> r.getNumber() == room.getNumber());
+        calendars.get(room.getNumber()).detach();
+    }
+
+    public synchronized void deleteReservation(Reservation reservation) {
+        if (!reservations.remove(reservation)) return;
+
+        calendars.get(reservation.getRoomId()).cancel(reservation);
+    }
+
+    public synchronized boolean containsUserWithId(String id) {
+        return usersById.containsKey(id);
+    }
+
+    public synchronized boolean containsRoomWithId(int id) {
+        return roomsByNumber.containsKey(id);
     }
 
-    public boolean containsReservationWithId(String id) {
+    public synchronized boolean containsReservationWithId(String id) {
         for (Reservation reservation : reservations) {
             if (reservation.getId().equals(id)) return true;
         }
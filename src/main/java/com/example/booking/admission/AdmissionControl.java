@@ -0,0 +1,157 @@
+package com.example.booking.admission;
+
+import com.example.booking.Server;
+import com.example.booking.enums.RoomType;
+import com.example.booking.enums.UserRole;
+import com.example.booking.models.Reservation;
+import com.example.booking.models.User;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits booking mutations per user before they reach the {@link Server},
+ * so one client retrying conflicting dates cannot hold the server lock for
+ * everybody else. Each user gets a token bucket sized by their current role.
+ */
+public final class AdmissionControl {
+    // bucket count below which idle buckets are not swept
+    private static final int MIN_SWEEP_SIZE = 1_024;
+
+    private final Server server;
+    private final Map<UserRole, RoleQuota> quotas;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets;
+    private final Map<UserRole, LongAdder> rejections;
+    private volatile int sweepAt = MIN_SWEEP_SIZE;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public AdmissionControl(Server server) {
+        this(server, defaultQuotas());
+    }
+
+    public AdmissionControl(Server server, Map<UserRole, RoleQuota> quotas) throws IllegalArgumentException {
+        this(server, quotas, System::nanoTime);
+    }
+
+    AdmissionControl(Server server, Map<UserRole, RoleQuota> quotas, LongSupplier clock)
+            throws IllegalArgumentException {
+        for (UserRole role : UserRole.values()) {
+            if (!quotas.containsKey(role)) {
+                throw new IllegalArgumentException("No quota configured for role " + role + ".");
+            }
+        }
+        this.server = server;
+        this.quotas = new EnumMap<>(quotas);
+        this.clock = clock;
+        this.buckets = new ConcurrentHashMap<>();
+        this.rejections = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            rejections.put(role, new LongAdder());
+        }
+    }
+
+    public static Map<UserRole, RoleQuota> defaultQuotas() {
+        Map<UserRole, RoleQuota> quotas = new EnumMap<>(UserRole.class);
+        quotas.put(UserRole.USER, new RoleQuota(10, 5));
+        quotas.put(UserRole.MANAGER, new RoleQuota(50, 25));
+        quotas.put(UserRole.ADMIN, new RoleQuota(100, 50));
+        return quotas;
+    }
+
+    public void addReservation(User user, Reservation reservation)
+            throws AdmissionRejectedException, IllegalArgumentException {
+        if (!user.getId().equals(reservation.getUserId())) {
+            throw new IllegalArgumentException("Reservation does not belong to user " + user.getId() + ".");
+        }
+        admit(user);
+        server.addReservation(reservation);
+    }
+
+    public Reservation assignAndReserve(User user, RoomType type, LocalDate from, LocalDate to)
+            throws AdmissionRejectedException, IllegalArgumentException {
+        admit(user);
+        return server.assignAndReserve(user.getId(), type, from, to);
+    }
+
+    public void deleteReservation(User user, Reservation reservation)
+            throws AdmissionRejectedException, IllegalArgumentException {
+        if (!user.getId().equals(reservation.getUserId())) {
+            throw new IllegalArgumentException("Reservation does not belong to user " + user.getId() + ".");
+        }
+        admit(user);
+        server.deleteReservation(reservation);
+    }
+
+    /** Deletes the user from the server and forgets their bucket. */
+    public void deleteUser(User user) {
+        server.deleteUser(user);
+        buckets.remove(user.getId());
+    }
+
+    /** Takes a token for the user, returning false instead of throwing when they are over quota. */
+    public boolean tryAdmit(User user) {
+        UserRole role = user.getRole();
+        TokenBucket bucket = buckets.get(user.getId());
+        boolean added = bucket == null || bucket.role() != role;
+        if (added) {
+            // a role change starts a new bucket with the new role's quota
+            bucket = buckets.compute(user.getId(), (id, existing) -> existing != null && existing.role() == role
+                    ? existing
+                    : new TokenBucket(role, quotas.get(role), clock));
+        }
+        // take the token first, so a bucket that was just added is no longer full when it triggers a sweep
+        boolean admitted = bucket.tryAcquire();
+        if (added && buckets.size() >= sweepAt) {
+            evictIdle();
+        }
+        if (!admitted) {
+            rejections.get(role).increment();
+        }
+        return admitted;
+    }
+
+    /**
+     * Drops the buckets of users that have been quiet long enough to refill.
+     * A user racing with the sweep may get one token from a bucket that is
+     * being dropped on top of a fresh full one; that slack is accepted. Only
+     * one sweep runs at a time; callers arriving during it return at once.
+     */
+    public void evictIdle() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            sweepAt = Math.max(MIN_SWEEP_SIZE, buckets.size() * 2);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public long getRejections(UserRole role) {
+        return rejections.get(role).sum();
+    }
+
+    public long getRejections() {
+        long total = 0;
+        for (LongAdder counter : rejections.values()) total += counter.sum();
+        return total;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private void admit(User user) throws AdmissionRejectedException {
+        if (!tryAdmit(user)) {
+            throw AdmissionRejectedException.INSTANCE;
+        }
+    }
+}
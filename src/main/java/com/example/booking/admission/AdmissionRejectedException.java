@@ -0,0 +1,14 @@
+package com.example.booking.admission;
+
+/**
+ * Thrown when a user is over quota. Rejections happen on the hot path of a
+ * misbehaving client, so a single shared instance without a stack trace or
+ * per-request message is reused.
+ */
+public final class AdmissionRejectedException extends RuntimeException {
+    static final AdmissionRejectedException INSTANCE = new AdmissionRejectedException();
+
+    private AdmissionRejectedException() {
+        super("Too many booking requests, try again later.", null, false, false);
+    }
+}
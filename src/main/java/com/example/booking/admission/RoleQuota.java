@@ -0,0 +1,35 @@
+package com.example.booking.admission;
+
+import lombok.Value;
+
+/** How many mutations a user may burst and how fast that allowance refills. */
+@Value
+public class RoleQuota {
+    int burst;
+    double perSecond;
+
+    public RoleQuota(int burst, double perSecond) throws IllegalArgumentException {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1.");
+        }
+        if (!(perSecond > 0) || perSecond > 1_000_000_000L) {
+            throw new IllegalArgumentException("Refill rate must be between 0 and one per nanosecond.");
+        }
+        this.burst = burst;
+        this.perSecond = perSecond;
+        try {
+            // the bucket adds one interval on top of a full burst
+            Math.multiplyExact(intervalNanos(), burst + 1L);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Burst of " + burst + " at " + perSecond + " per second is too long.");
+        }
+    }
+
+    long intervalNanos() {
+        return (long) (1_000_000_000L / perSecond);
+    }
+
+    long burstNanos() {
+        return intervalNanos() * burst;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.booking.admission;
+
+import com.example.booking.enums.UserRole;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket. Instead of a token count it keeps the time at which
+ * the bucket would be full again; taking a token pushes that time forward by
+ * one refill interval, and a request is refused when it would move more than
+ * a full burst into the future. The whole state is one {@link AtomicLong}, so
+ * a decision is a single compare-and-set.
+ */
+final class TokenBucket {
+    private final UserRole role;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong fullAt;
+
+    TokenBucket(UserRole role, RoleQuota quota, LongSupplier clock) {
+        this.role = role;
+        this.intervalNanos = quota.intervalNanos();
+        this.burstNanos = quota.burstNanos();
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+
+    UserRole role() {
+        return role;
+    }
+
+    boolean tryAcquire() {
+        long now = clock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /** A full bucket holds no state a fresh one wouldn't, so it can be dropped. */
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
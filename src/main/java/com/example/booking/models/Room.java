@@ -6,7 +6,7 @@ import lombok.Data;
 @Data
 public class Room {
     private final int number;
-    private RoomType type;
+    private final RoomType type;
 
     public Room(int number, RoomType type) {
         this.number = number;
@@ -7,7 +7,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -18,11 +17,7 @@ public class ServerTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        Field instanceField = Server.class.getDeclaredField("instance");
-        instanceField.setAccessible(true);
-        instanceField.set(null, null);
-
-        server = Server.getInstance();
+        server = TestServers.fresh();
     }
 
     @Test
@@ -484,4 +479,163 @@ public class ServerTest {
         assertEquals(initialRooms, server.getRooms().size());
         assertEquals(initialReservations, server.getReservations().size());
     }
+
+    @Test
+    @DisplayName("Assign room of requested type")
+    void testAssignAndReserve() {
+        User user = server.getUsers().getFirst();
+
+        Reservation reservation = server.assignAndReserve(
+                user.getId(), RoomType.LUX,
+                LocalDate.of(2031, 3, 1),
+                LocalDate.of(2031, 3, 4)
+        );
+
+        assertEquals(11, reservation.getRoomId());
+        assertEquals(user.getId(), reservation.getUserId());
+        assertTrue(server.containsReservationWithId(reservation.getId()));
+    }
+
+    @Test
+    @DisplayName("Assign room when all rooms of the type are occupied throws exception")
+    void testAssignAndReserveNoFreeRoom() {
+        User user = server.getUsers().getFirst();
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> server.assignAndReserve(
+                        user.getId(), RoomType.ECONOMY,
+                        LocalDate.of(2030, 12, 10),
+                        LocalDate.of(2030, 12, 14)
+                )
+        );
+
+        assertTrue(exception.getMessage().contains("No ECONOMY room is free"));
+        assertEquals(1, server.getReservations().size());
+    }
+
+    @Test
+    @DisplayName("Assigned room is released after reservation is deleted")
+    void testAssignAndReserveAfterDelete() {
+        User user = server.getUsers().getFirst();
+        Reservation stockReservation = server.getReservations().getFirst();
+
+        server.deleteReservation(stockReservation);
+
+        Reservation reservation = server.assignAndReserve(
+                user.getId(), RoomType.ECONOMY,
+                stockReservation.getFrom(),
+                stockReservation.getTo()
+        );
+        assertEquals(10, reservation.getRoomId());
+    }
+
+    @Test
+    @DisplayName("Best fit follows gaps opened by deleted reservations")
+    void testAssignAndReserveBestFitAfterDelete() {
+        LocalDate day1 = LocalDate.of(2031, 6, 1);
+        LocalDate day3 = LocalDate.of(2031, 6, 3);
+        LocalDate day4 = LocalDate.of(2031, 6, 4);
+        LocalDate day5 = LocalDate.of(2031, 6, 5);
+        LocalDate day7 = LocalDate.of(2031, 6, 7);
+
+        server.addRoom(new Room(13, RoomType.PRESIDENTIAL));
+        String userId = server.getUsers().getFirst().getId();
+        server.addReservation(new Reservation(userId, 12, day1, day3));
+        server.addReservation(new Reservation(userId, 12, day5, day7));
+        server.addReservation(new Reservation(userId, 13, day1, day3));
+        Reservation blocking = new Reservation(userId, 13, day4, day7);
+        server.addReservation(blocking);
+
+        Reservation exactFit = server.assignAndReserve(userId, RoomType.PRESIDENTIAL, day3, day4);
+        assertEquals(13, exactFit.getRoomId());
+
+        server.deleteReservation(exactFit);
+        server.deleteReservation(blocking);
+
+        Reservation boundedFit = server.assignAndReserve(userId, RoomType.PRESIDENTIAL, day3, day4);
+        assertEquals(12, boundedFit.getRoomId(), "Room 13 is now open-ended, room 12 still has a short gap");
+    }
+
+    @Test
+    @DisplayName("Deleted room is no longer assigned")
+    void testAssignAndReserveSkipsDeletedRoom() {
+        User user = server.getUsers().getFirst();
+        Room luxRoom = server.getRooms().stream()
+                .filter(r -> r.getNumber() == 11)
+                .findFirst()
+                .orElseThrow();
+
+        server.deleteRoom(luxRoom);
+
+        assertThrows(IllegalArgumentException.class, () -> server.assignAndReserve(
+                user.getId(), RoomType.LUX,
+                LocalDate.of(2031, 3, 1),
+                LocalDate.of(2031, 3, 4)
+        ));
+        assertTrue(server.getFreeRooms(RoomType.LUX,
+                LocalDate.of(2031, 3, 1),
+                LocalDate.of(2031, 3, 4)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Free rooms lookup skips occupied rooms and other types")
+    void testGetFreeRooms() {
+        server.addRoom(new Room(20, RoomType.ECONOMY));
+        server.addRoom(new Room(21, RoomType.LUX));
+
+        List<Room> freeRooms = server.getFreeRooms(RoomType.ECONOMY,
+                LocalDate.of(2030, 12, 10),
+                LocalDate.of(2030, 12, 14));
+
+        assertEquals(1, freeRooms.size());
+        assertEquals(20, freeRooms.getFirst().getNumber());
+    }
+
+    @Test
+    @DisplayName("Best-fit assignment fills more stays than first-fit")
+    void testAssignAndReserveBestFitVersusFirstFit() throws Exception {
+        LocalDate day1 = LocalDate.of(2031, 6, 1);
+        LocalDate day3 = LocalDate.of(2031, 6, 3);
+        LocalDate day5 = LocalDate.of(2031, 6, 5);
+        LocalDate day7 = LocalDate.of(2031, 6, 7);
+        // room 12 is free from the 3rd, room 13 from the 5th
+        LocalDate[][] requests = {{day5, day7}, {day3, day7}};
+
+        server.addRoom(new Room(13, RoomType.PRESIDENTIAL));
+        String userId = server.getUsers().getFirst().getId();
+        server.addReservation(new Reservation(userId, 12, day1, day3));
+        server.addReservation(new Reservation(userId, 13, day1, day5));
+
+        int bestFitBooked = 0;
+        for (LocalDate[] request : requests) {
+            try {
+                server.assignAndReserve(userId, RoomType.PRESIDENTIAL, request[0], request[1]);
+                bestFitBooked++;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        server = TestServers.fresh();
+        server.addRoom(new Room(13, RoomType.PRESIDENTIAL));
+        userId = server.getUsers().getFirst().getId();
+        server.addReservation(new Reservation(userId, 12, day1, day3));
+        server.addReservation(new Reservation(userId, 13, day1, day5));
+
+        int firstFitBooked = 0;
+        for (LocalDate[] request : requests) {
+            for (Room room : server.getRooms()) {
+                if (room.getType() != RoomType.PRESIDENTIAL) continue;
+                try {
+                    server.addReservation(new Reservation(userId, room.getNumber(), request[0], request[1]));
+                    firstFitBooked++;
+                    break;
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        }
+
+        assertEquals(2, bestFitBooked, "Best fit should place both stays");
+        assertEquals(1, firstFitBooked, "First fit leaves a gap that blocks the second stay");
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.booking;
+
+import java.lang.reflect.Field;
+
+public final class TestServers {
+    private TestServers() {
+    }
+
+    /** Drops the singleton so the next {@link Server#getInstance()} starts from the stock data. */
+    public static Server fresh() throws Exception {
+        Field instanceField = Server.class.getDeclaredField("instance");
+        instanceField.setAccessible(true);
+        instanceField.set(null, null);
+
+        return Server.getInstance();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.booking.admission;
+
+import com.example.booking.Server;
+import com.example.booking.TestServers;
+import com.example.booking.enums.RoomType;
+import com.example.booking.enums.UserRole;
+import com.example.booking.models.Reservation;
+import com.example.booking.models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlTest {
+    private Server server;
+    private AtomicLong clock;
+    private AdmissionControl admission;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = TestServers.fresh();
+        clock = new AtomicLong();
+        admission = new AdmissionControl(server, AdmissionControl.defaultQuotas(), clock::get);
+    }
+
+    private User user(String name, UserRole role) {
+        User user = new User(name, role);
+        server.addUser(user);
+        return user;
+    }
+
+    private static int admitted(AdmissionControl admission, User user, int attempts) {
+        int admitted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (admission.tryAdmit(user)) admitted++;
+        }
+        return admitted;
+    }
+
+    @Test
+    @DisplayName("User is admitted up to the burst and refilled over time")
+    void testBurstAndRefill() {
+        User user = user("Burst", UserRole.USER);
+
+        assertEquals(10, admitted(admission, user, 20));
+
+        clock.addAndGet(200_000_000L); // one token at 5 per second
+        assertEquals(1, admitted(admission, user, 5));
+
+        clock.addAndGet(60_000_000_000L);
+        assertEquals(10, admitted(admission, user, 20), "Bucket should not fill past its burst");
+    }
+
+    @Test
+    @DisplayName("Admins and managers get larger quotas than users")
+    void testRoleQuotas() {
+        assertEquals(10, admitted(admission, user("User", UserRole.USER), 200));
+        assertEquals(50, admitted(admission, user("Manager", UserRole.MANAGER), 200));
+        assertEquals(100, admitted(admission, user("Admin", UserRole.ADMIN), 200));
+    }
+
+    @Test
+    @DisplayName("Buckets are kept per user")
+    void testBucketsPerUser() {
+        User first = user("First", UserRole.USER);
+        User second = user("Second", UserRole.USER);
+
+        assertEquals(10, admitted(admission, first, 20));
+        assertEquals(10, admitted(admission, second, 20));
+    }
+
+    @Test
+    @DisplayName("Rejections are counted per role")
+    void testRejectionCounters() {
+        admitted(admission, user("User", UserRole.USER), 15);
+        admitted(admission, user("Manager", UserRole.MANAGER), 52);
+
+        assertEquals(5, admission.getRejections(UserRole.USER));
+        assertEquals(2, admission.getRejections(UserRole.MANAGER));
+        assertEquals(0, admission.getRejections(UserRole.ADMIN));
+        assertEquals(7, admission.getRejections());
+    }
+
+    @Test
+    @DisplayName("Rejected mutation does not reach the server")
+    void testRejectedMutation() {
+        User user = server.getUsers().getFirst(); // owns the stock reservation
+        admitted(admission, user, 10);
+        int initialSize = server.getReservations().size();
+
+        AdmissionRejectedException first = assertThrows(
+                AdmissionRejectedException.class,
+                () -> admission.assignAndReserve(user, RoomType.LUX,
+                        LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 3))
+        );
+        AdmissionRejectedException second = assertThrows(
+                AdmissionRejectedException.class,
+                () -> admission.deleteReservation(user, server.getReservations().getFirst())
+        );
+
+        assertSame(first, second, "Rejections should not allocate");
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(initialSize, server.getReservations().size());
+    }
+
+    @Test
+    @DisplayName("Admitted mutation is forwarded to the server")
+    void testAdmittedMutation() {
+        User user = user("Admitted", UserRole.USER);
+        Reservation reservation = new Reservation(user.getId(), 11,
+                LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 3));
+
+        admission.addReservation(user, reservation);
+
+        assertTrue(server.containsReservationWithId(reservation.getId()));
+    }
+
+    @Test
+    @DisplayName("Reservation for another user is refused")
+    void testReservationForAnotherUser() {
+        User user = user("Owner", UserRole.USER);
+        User other = user("Other", UserRole.USER);
+
+        assertThrows(IllegalArgumentException.class, () -> admission.addReservation(other,
+                new Reservation(user.getId(), 11, LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 3))));
+    }
+
+    @Test
+    @DisplayName("Missing role quota throws exception")
+    void testMissingQuota() {
+        Map<UserRole, RoleQuota> quotas = new EnumMap<>(UserRole.class);
+        quotas.put(UserRole.USER, new RoleQuota(1, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionControl(server, quotas));
+    }
+
+    @Test
+    @DisplayName("Role change applies the new role's quota")
+    void testRoleChange() {
+        User user = user("Promoted", UserRole.USER);
+        assertEquals(10, admitted(admission, user, 20));
+
+        user.setRole(UserRole.ADMIN);
+
+        assertEquals(100, admitted(admission, user, 120));
+        assertEquals(10, admission.getRejections(UserRole.USER));
+        assertEquals(20, admission.getRejections(UserRole.ADMIN));
+    }
+
+    @Test
+    @DisplayName("Idle buckets are evicted")
+    void testEvictIdle() {
+        User quiet = user("Quiet", UserRole.USER);
+        User busy = user("Busy", UserRole.USER);
+        admitted(admission, quiet, 1);
+        admitted(admission, busy, 10);
+
+        clock.addAndGet(1_000_000_000L); // quiet has refilled, busy has not
+        admission.evictIdle();
+
+        assertEquals(1, admission.bucketCount());
+        assertEquals(5, admitted(admission, busy, 10), "Busy user keeps their drained bucket");
+    }
+
+    @Test
+    @DisplayName("Bucket map is swept as new users arrive")
+    void testBucketSweep() {
+        for (int i = 0; i < 5_000; i++) {
+            admission.tryAdmit(new User("Passing " + i, UserRole.USER));
+            clock.addAndGet(10_000_000L);
+        }
+
+        assertTrue(admission.bucketCount() < 2_048, "Bucket count was " + admission.bucketCount());
+    }
+
+    @Test
+    @DisplayName("Sweep triggered by a new user keeps that user's bucket")
+    void testSweepKeepsNewBucket() {
+        for (int i = 0; i < 1_023; i++) {
+            admission.tryAdmit(new User("Passing " + i, UserRole.USER));
+        }
+        clock.addAndGet(60_000_000_000L); // every earlier bucket has refilled
+
+        User newcomer = user("Newcomer", UserRole.USER);
+        assertTrue(admission.tryAdmit(newcomer));
+
+        assertEquals(1, admission.bucketCount());
+        assertEquals(9, admitted(admission, newcomer, 20), "The first token stays spent");
+    }
+
+    @Test
+    @DisplayName("Deleted user's bucket is dropped")
+    void testDeleteUser() {
+        User user = user("Leaving", UserRole.USER);
+        admitted(admission, user, 1);
+
+        admission.deleteUser(user);
+
+        assertEquals(0, admission.bucketCount());
+        assertFalse(server.containsUserWithId(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Deleting another user's reservation is refused")
+    void testDeleteReservationOfAnotherUser() {
+        User user = user("Stranger", UserRole.USER);
+        Reservation stockReservation = server.getReservations().getFirst();
+
+        assertThrows(IllegalArgumentException.class, () -> admission.deleteReservation(user, stockReservation));
+        assertTrue(server.containsReservationWithId(stockReservation.getId()));
+        assertEquals(0, admission.bucketCount(), "Refused request should not spend a token");
+    }
+
+    @Test
+    @DisplayName("Quota outside the supported range throws exception")
+    void testQuotaRange() {
+        assertThrows(IllegalArgumentException.class, () -> new RoleQuota(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RoleQuota(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RoleQuota(1, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new RoleQuota(1, 2e9));
+        assertThrows(IllegalArgumentException.class, () -> new RoleQuota(Integer.MAX_VALUE, 1e-6));
+        assertDoesNotThrow(() -> new RoleQuota(1, 1e9));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.booking.admission;
+
+import com.example.booking.Server;
+import com.example.booking.TestServers;
+import com.example.booking.enums.RoomType;
+import com.example.booking.enums.UserRole;
+import com.example.booking.load.LatencyStats;
+import com.example.booking.load.Operation;
+import com.example.booking.load.WorkloadConfig;
+import com.example.booking.load.WorkloadGenerator;
+import com.example.booking.load.WorkloadReport;
+import com.example.booking.load.WorkloadRunner;
+import com.example.booking.load.WorkloadTrace;
+import com.example.booking.models.Reservation;
+import com.example.booking.models.Room;
+import com.example.booking.models.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Wall-clock load test, excluded from the default test run. Run it with
+ * {@code mvn test -Dgroups=load -DexcludedGroups=}; the bound and load shape
+ * can be tuned for other machines with the system properties read below.
+ */
+@Tag("load")
+public class AdmissionLoadTest {
+    private static final long P99_BOUND_NANOS = Long.getLong("p99", 2_000_000L);
+    private static final int NOISY_THREADS = Integer.getInteger("noisy", 2);
+    private static final int REGULAR_THREADS = Integer.getInteger("regular", 4);
+    private static final long THINK_NANOS = Long.getLong("think", 100_000L);
+    // reservations the server has to scan past when asked to delete one it does not have
+    private static final int BACKLOG = Integer.getInteger("backlog", 20_000);
+    private static final int SUITES = 2_000;
+    private static final int FIRST_SUITE_NUMBER = 100_000;
+
+    // enough users that none of them goes over the USER burst on their own
+    private final WorkloadTrace regularTraffic = new WorkloadGenerator(WorkloadConfig.builder()
+            .seed(11)
+            .roomsPerType(Map.of(RoomType.ECONOMY, 100, RoomType.LUX, 50))
+            .users(5_000)
+            .horizonDays(120)
+            .operations(5_000)
+            .build()).generate();
+
+    private long regularRejections;
+    private long noisyRejections;
+
+    /**
+     * Plays the regular users' trace while a MANAGER client keeps retrying the
+     * cancellation of a reservation that is already gone. Every attempt that
+     * reaches the server scans the whole reservation list under the server lock.
+     * The noisy user has a role of their own, so rejections are counted apart
+     * from the regular users'.
+     */
+    private WorkloadReport runWithNoisyUser(boolean protect) throws Exception {
+        Server server = TestServers.fresh();
+        AdmissionControl admission = new AdmissionControl(server);
+        WorkloadRunner runner = protect
+                ? new WorkloadRunner(server, regularTraffic, admission)
+                : new WorkloadRunner(server, regularTraffic);
+
+        User noisy = new User("Noisy", UserRole.MANAGER);
+        server.addUser(noisy);
+        LocalDate firstDay = LocalDate.of(2030, 1, 1);
+        for (int i = 0; i < SUITES; i++) {
+            server.addRoom(new Room(FIRST_SUITE_NUMBER + i, RoomType.PRESIDENTIAL));
+        }
+        for (int i = 0; i < BACKLOG; i++) {
+            LocalDate from = firstDay.plusWeeks(i / SUITES);
+            server.addReservation(new Reservation(noisy.getId(), FIRST_SUITE_NUMBER + i % SUITES, from, from.plusDays(3)));
+        }
+        Reservation cancelled = new Reservation(noisy.getId(), 12, firstDay, firstDay.plusDays(3));
+        server.addReservation(cancelled);
+        server.deleteReservation(cancelled);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> noisyThreads = new ArrayList<>();
+        for (int i = 0; i < NOISY_THREADS; i++) {
+            noisyThreads.add(Thread.ofPlatform().start(() -> {
+                while (running.get()) {
+                    try {
+                        if (protect) {
+                            admission.deleteReservation(noisy, cancelled);
+                        } else {
+                            server.deleteReservation(cancelled);
+                        }
+                    } catch (AdmissionRejectedException ignored) {
+                    }
+                }
+            }));
+        }
+
+        try {
+            return runner.run(REGULAR_THREADS, false, THINK_NANOS);
+        } finally {
+            running.set(false);
+            for (Thread thread : noisyThreads) thread.join();
+            regularRejections = admission.getRejections(UserRole.USER);
+            noisyRejections = admission.getRejections(UserRole.MANAGER);
+        }
+    }
+
+    @Test
+    @DisplayName("Admission control keeps other users' p99 under the bound a noisy user breaks")
+    void testNoisyUserIsolation() throws Exception {
+        WorkloadReport unprotected = runWithNoisyUser(false);
+        WorkloadReport protectedRun = runWithNoisyUser(true);
+        System.out.print("without admission: " + unprotected.describe()
+                + "with admission: " + protectedRun.describe());
+
+        LatencyStats unprotectedBookings = unprotected.getStats().get(Operation.BOOK);
+        LatencyStats protectedBookings = protectedRun.getStats().get(Operation.BOOK);
+        assumeTrue(unprotectedBookings.getP99() > P99_BOUND_NANOS,
+                "The noisy user did not break the bound on this machine, p99 was "
+                        + unprotectedBookings.getP99() / 1_000 + " us; raise -Dbacklog or lower -Dp99");
+        assertTrue(protectedBookings.getP99() < P99_BOUND_NANOS,
+                "With admission control other users' p99 was " + protectedBookings.getP99() / 1_000 + " us");
+        assertEquals(0, regularRejections, "Regular users should never be throttled");
+        assertTrue(noisyRejections > 0, "Noisy user should be throttled");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.booking.load;
+
+/** How BOOK events pick a room. */
+public enum Assignment {
+    // Server.assignAndReserve
+    BEST_FIT,
+    // the old front end loop: try addReservation on each room of the type until one doesn't throw
+    FIRST_FIT
+}
@@ -0,0 +1,44 @@
+package com.example.booking.load;
+
+import com.example.booking.TestServers;
+import com.example.booking.enums.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares best-fit and first-fit assignment on a hotel-sized replay and prints
+ * both reports. Wall-clock, so it is excluded from the default test run; run it
+ * with {@code mvn test -Dgroups=load -DexcludedGroups=}.
+ */
+@Tag("load")
+public class AssignmentLoadTest {
+
+    @Test
+    @DisplayName("Best fit fills at least as much as first fit at hotel scale, with cheaper bookings")
+    void testBestFitVersusFirstFit() throws Exception {
+        WorkloadTrace trace = new WorkloadGenerator(WorkloadConfig.builder()
+                .seed(7)
+                .roomsPerType(Map.of(RoomType.ECONOMY, 100, RoomType.LUX, 50, RoomType.PRESIDENTIAL, 20))
+                .users(500)
+                .horizonDays(120)
+                .operations(20_000)
+                .build()).generate();
+
+        WorkloadReport bestFit = new WorkloadRunner(TestServers.fresh(), trace, Assignment.BEST_FIT).run(1, false);
+        WorkloadReport firstFit = new WorkloadRunner(TestServers.fresh(), trace, Assignment.FIRST_FIT).run(1, false);
+        System.out.print("best fit: " + bestFit.describe() + "first fit: " + firstFit.describe());
+
+        assertTrue(bestFit.getOccupancy() >= firstFit.getOccupancy(),
+                "Best fit occupancy " + bestFit.getOccupancy() + " below first fit " + firstFit.getOccupancy());
+        assertTrue(bestFit.getStats().get(Operation.BOOK).getSucceeded()
+                >= firstFit.getStats().get(Operation.BOOK).getSucceeded());
+        // one index lookup against one locked call per room tried
+        assertTrue(bestFit.getStats().get(Operation.BOOK).getP50()
+                < firstFit.getStats().get(Operation.BOOK).getP50());
+    }
+}
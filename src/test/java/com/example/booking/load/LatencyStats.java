@@ -0,0 +1,35 @@
+package com.example.booking.load;
+
+import lombok.Value;
+
+import java.util.Arrays;
+
+/** Latencies are in nanoseconds; skipped requests never reached the server and are not in them. */
+@Value
+public class LatencyStats {
+    int count;
+    int succeeded;
+    int skipped;
+    long p50;
+    long p90;
+    long p99;
+    long p999;
+    long max;
+
+    public static LatencyStats of(long[] latencies, int succeeded, int skipped) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new LatencyStats(sorted.length, succeeded, skipped,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
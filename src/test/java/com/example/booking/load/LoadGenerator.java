@@ -0,0 +1,76 @@
+package com.example.booking.load;
+
+import com.example.booking.Server;
+import com.example.booking.enums.RoomType;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line entry point for capacity runs. Arguments are {@code key=value}
+ * pairs, for example:
+ * <pre>
+ *   seed=7 users=5000 rooms.ECONOMY=2000 operations=500000 threads=64 virtual=true record=trace.csv
+ *   replay=trace.csv threads=1 assignment=FIRST_FIT
+ * </pre>
+ * Without {@code replay} a new workload is generated from the remaining keys.
+ */
+public final class LoadGenerator {
+    private static final int DEFAULT_THREADS = 8;
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        WorkloadConfig.WorkloadConfigBuilder config = WorkloadConfig.builder();
+        Map<RoomType, Integer> rooms = new EnumMap<>(WorkloadConfig.builder().build().getRoomsPerType());
+        Path record = null;
+        Path replay = null;
+        int threads = DEFAULT_THREADS;
+        boolean virtualThreads = false;
+        Assignment assignment = Assignment.BEST_FIT;
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            String value = pair[1];
+            switch (pair[0]) {
+                case "seed" -> config.seed(Long.parseLong(value));
+                case "users" -> config.users(Integer.parseInt(value));
+                case "horizon" -> config.horizonDays(Integer.parseInt(value));
+                case "maxNights" -> config.maxNights(Integer.parseInt(value));
+                case "seasonality" -> config.seasonality(Double.parseDouble(value));
+                case "zipf" -> config.zipfExponent(Double.parseDouble(value));
+                case "operations" -> config.operations(Integer.parseInt(value));
+                case "book" -> config.bookWeight(Integer.parseInt(value));
+                case "conflict" -> config.conflictWeight(Integer.parseInt(value));
+                case "delete" -> config.deleteWeight(Integer.parseInt(value));
+                case "lookup" -> config.lookupWeight(Integer.parseInt(value));
+                case "threads" -> threads = Integer.parseInt(value);
+                case "virtual" -> virtualThreads = Boolean.parseBoolean(value);
+                case "assignment" -> assignment = Assignment.valueOf(value);
+                case "record" -> record = Path.of(value);
+                case "replay" -> replay = Path.of(value);
+                default -> {
+                    if (!pair[0].startsWith("rooms.")) {
+                        throw new IllegalArgumentException("Unknown option " + pair[0]);
+                    }
+                    rooms.put(RoomType.valueOf(pair[0].substring("rooms.".length())), Integer.parseInt(value));
+                }
+            }
+        }
+
+        WorkloadTrace trace = replay != null
+                ? WorkloadTrace.read(replay)
+                : new WorkloadGenerator(config.roomsPerType(rooms).build()).generate();
+        if (record != null) {
+            trace.write(record);
+        }
+
+        WorkloadReport report = new WorkloadRunner(Server.getInstance(), trace, assignment).run(threads, virtualThreads);
+        System.out.print(report.describe());
+    }
+}
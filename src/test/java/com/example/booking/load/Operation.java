@@ -0,0 +1,8 @@
+package com.example.booking.load;
+
+public enum Operation {
+    BOOK,
+    CONFLICT,
+    DELETE,
+    LOOKUP
+}
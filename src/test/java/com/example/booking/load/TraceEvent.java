@@ -0,0 +1,57 @@
+package com.example.booking.load;
+
+import com.example.booking.enums.RoomType;
+import lombok.Value;
+
+/**
+ * One recorded request. Dates are stored as day offsets from the start of the
+ * booking horizon so a trace can be replayed on any day. CONFLICT and DELETE
+ * refer to the BOOK event they target by its index in the trace.
+ */
+@Value
+public class TraceEvent {
+    Operation operation;
+    int userIndex;
+    RoomType roomType;
+    int fromDay;
+    int nights;
+    int target;
+
+    public String format() {
+        return operation + "," + userIndex + "," + roomType + "," + fromDay + "," + nights + "," + target;
+    }
+
+    /**
+     * Parses one event line. Checks what the line alone can tell; whether the
+     * user and target exist is up to the trace it belongs to.
+     */
+    public static TraceEvent parse(String line) throws IllegalArgumentException {
+        String[] fields = line.split(",");
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Malformed trace event: " + line);
+        }
+
+        TraceEvent event;
+        try {
+            event = new TraceEvent(Operation.valueOf(fields[0]),
+                    Integer.parseInt(fields[1]),
+                    RoomType.valueOf(fields[2]),
+                    Integer.parseInt(fields[3]),
+                    Integer.parseInt(fields[4]),
+                    Integer.parseInt(fields[5]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed trace event: " + line, e);
+        }
+
+        if (event.userIndex < 0 || event.fromDay < 0 || event.nights < 0) {
+            throw new IllegalArgumentException("Negative user, day or nights in trace event: " + line);
+        }
+        boolean targeted = event.operation == Operation.CONFLICT || event.operation == Operation.DELETE;
+        if (targeted ? event.target < 0 : event.target != -1) {
+            throw new IllegalArgumentException(targeted
+                    ? "Missing target in trace event: " + line
+                    : "Unexpected target in trace event: " + line);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.booking.load;
+
+import com.example.booking.enums.RoomType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Value
+@Builder(toBuilder = true)
+public class WorkloadConfig {
+    @Builder.Default long seed = 42;
+
+    @Builder.Default Map<RoomType, Integer> roomsPerType = defaultRooms();
+    @Builder.Default int users = 1_000;
+
+    @Builder.Default int horizonDays = 365;
+    @Builder.Default int maxNights = 7;
+    // 0 spreads demand evenly over the year, 1 makes the peak season twice the average
+    @Builder.Default double seasonality = 0.5;
+    // skew of start date popularity, 0 is uniform
+    @Builder.Default double zipfExponent = 1.0;
+
+    @Builder.Default int operations = 100_000;
+    @Builder.Default int bookWeight = 60;
+    @Builder.Default int conflictWeight = 10;
+    @Builder.Default int deleteWeight = 10;
+    @Builder.Default int lookupWeight = 20;
+
+    private static Map<RoomType, Integer> defaultRooms() {
+        Map<RoomType, Integer> rooms = new EnumMap<>(RoomType.class);
+        rooms.put(RoomType.ECONOMY, 300);
+        rooms.put(RoomType.LUX, 150);
+        rooms.put(RoomType.PRESIDENTIAL, 50);
+        return rooms;
+    }
+}
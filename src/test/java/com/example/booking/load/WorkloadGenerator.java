@@ -0,0 +1,161 @@
+package com.example.booking.load;
+
+import com.example.booking.enums.RoomType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds a reproducible request sequence from a {@link WorkloadConfig}: the
+ * same seed always yields the same trace.
+ */
+public final class WorkloadGenerator {
+    private final WorkloadConfig config;
+    private final Random random;
+    private final double[] startDayCdf;
+    private final RoomType[] roomTypes;
+    private final double[] roomTypeCdf;
+
+    public WorkloadGenerator(WorkloadConfig config) throws IllegalArgumentException {
+        validate(config);
+        this.config = config;
+        this.random = new Random(config.getSeed());
+        this.startDayCdf = buildStartDayCdf();
+
+        // EnumMap keeps the type order fixed whatever map the caller passed in
+        Map<RoomType, Integer> roomsPerType = new EnumMap<>(config.getRoomsPerType());
+        this.roomTypes = roomsPerType.keySet().toArray(new RoomType[0]);
+        double[] typeWeights = new double[roomTypes.length];
+        for (int i = 0; i < roomTypes.length; i++) {
+            typeWeights[i] = roomsPerType.get(roomTypes[i]);
+        }
+        this.roomTypeCdf = cumulative(typeWeights);
+    }
+
+    private static void validate(WorkloadConfig config) throws IllegalArgumentException {
+        if (config.getRoomsPerType().isEmpty()) {
+            throw new IllegalArgumentException("At least one room type is required.");
+        }
+        int rooms = 0;
+        for (int count : config.getRoomsPerType().values()) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Room counts cannot be negative.");
+            }
+            rooms += count;
+        }
+        if (rooms == 0) {
+            throw new IllegalArgumentException("The hotel needs at least one room.");
+        }
+        if (config.getUsers() <= 0 || config.getHorizonDays() <= 0 || config.getMaxNights() <= 0) {
+            throw new IllegalArgumentException("Users, horizon and max nights must be positive.");
+        }
+        if (config.getOperations() < 0) {
+            throw new IllegalArgumentException("Operation count cannot be negative.");
+        }
+        if (config.getSeasonality() < 0 || config.getSeasonality() > 1) {
+            throw new IllegalArgumentException("Seasonality must be between 0 and 1.");
+        }
+        if (config.getZipfExponent() < 0) {
+            throw new IllegalArgumentException("Zipf exponent cannot be negative.");
+        }
+        if (config.getBookWeight() < 0 || config.getConflictWeight() < 0
+                || config.getDeleteWeight() < 0 || config.getLookupWeight() < 0) {
+            throw new IllegalArgumentException("Operation weights cannot be negative.");
+        }
+        if (config.getBookWeight() + config.getConflictWeight()
+                + config.getDeleteWeight() + config.getLookupWeight() == 0) {
+            throw new IllegalArgumentException("At least one operation weight must be positive.");
+        }
+    }
+
+    public WorkloadTrace generate() {
+        List<TraceEvent> events = new ArrayList<>(config.getOperations());
+        List<Integer> bookings = new ArrayList<>();
+        List<Integer> deletable = new ArrayList<>();
+        int totalWeight = config.getBookWeight() + config.getConflictWeight()
+                + config.getDeleteWeight() + config.getLookupWeight();
+
+        for (int i = 0; i < config.getOperations(); i++) {
+            Operation operation = pickOperation(random.nextInt(totalWeight));
+            if (bookings.isEmpty() && (operation == Operation.CONFLICT || operation == Operation.DELETE)) {
+                operation = Operation.BOOK;
+            }
+            if (deletable.isEmpty() && operation == Operation.DELETE) {
+                operation = Operation.BOOK;
+            }
+
+            int userIndex = random.nextInt(config.getUsers());
+            RoomType roomType = roomTypes[sample(roomTypeCdf)];
+            int fromDay = sample(startDayCdf);
+            int nights = 1 + random.nextInt(config.getMaxNights());
+            int target = -1;
+
+            switch (operation) {
+                case BOOK -> {
+                    bookings.add(i);
+                    deletable.add(i);
+                }
+                case CONFLICT -> target = bookings.get(random.nextInt(bookings.size()));
+                case DELETE -> {
+                    // swap-remove so each booking is deleted at most once
+                    int slot = random.nextInt(deletable.size());
+                    target = deletable.get(slot);
+                    deletable.set(slot, deletable.get(deletable.size() - 1));
+                    deletable.remove(deletable.size() - 1);
+                }
+                case LOOKUP -> {
+                }
+            }
+            events.add(new TraceEvent(operation, userIndex, roomType, fromDay, nights, target));
+        }
+
+        return new WorkloadTrace(new EnumMap<>(config.getRoomsPerType()), config.getUsers(),
+                config.getHorizonDays(), Collections.unmodifiableList(events));
+    }
+
+    private Operation pickOperation(int roll) {
+        if ((roll -= config.getBookWeight()) < 0) return Operation.BOOK;
+        if ((roll -= config.getConflictWeight()) < 0) return Operation.CONFLICT;
+        if (roll - config.getDeleteWeight() < 0) return Operation.DELETE;
+        return Operation.LOOKUP;
+    }
+
+    /**
+     * Start day weights: days get a Zipf rank in shuffled order, so a few random
+     * dates are very popular, scaled by a yearly sine wave for the season.
+     */
+    private double[] buildStartDayCdf() {
+        int days = config.getHorizonDays();
+        Integer[] ranks = new Integer[days];
+        for (int i = 0; i < days; i++) ranks[i] = i + 1;
+        Collections.shuffle(Arrays.asList(ranks), random);
+
+        double[] weights = new double[days];
+        for (int day = 0; day < days; day++) {
+            double season = 1 + config.getSeasonality() * Math.sin(2 * Math.PI * day / 365.0);
+            weights[day] = season / Math.pow(ranks[day], config.getZipfExponent());
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) cdf[i] /= sum;
+        return cdf;
+    }
+
+    private int sample(double[] cdf) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+    }
+}
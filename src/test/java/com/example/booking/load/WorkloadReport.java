@@ -0,0 +1,43 @@
+package com.example.booking.load;
+
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+public class WorkloadReport {
+    int threads;
+    boolean virtualThreads;
+    long elapsedNanos;
+    // share of room-nights in the horizon that ended up booked
+    double occupancy;
+    Map<Operation, LatencyStats> stats;
+
+    public int operations() {
+        int operations = 0;
+        for (LatencyStats operationStats : stats.values()) {
+            operations += operationStats.getCount() + operationStats.getSkipped();
+        }
+        return operations;
+    }
+
+    public double throughput() {
+        return operations() / (elapsedNanos / 1e9);
+    }
+
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%d ops on %d %s threads in %.1f ms: %.0f ops/s, occupancy %.1f%%%n",
+                operations(), threads, virtualThreads ? "virtual" : "platform",
+                elapsedNanos / 1e6, throughput(), occupancy * 100));
+        out.append(String.format("%-9s %8s %8s %8s %10s %10s %10s %10s %10s%n",
+                "op", "count", "ok", "skipped", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us"));
+        for (Map.Entry<Operation, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats s = entry.getValue();
+            out.append(String.format("%-9s %8d %8d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    entry.getKey(), s.getCount(), s.getSucceeded(), s.getSkipped(),
+                    s.getP50() / 1e3, s.getP90() / 1e3, s.getP99() / 1e3, s.getP999() / 1e3, s.getMax() / 1e3));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.booking.load;
+
+import com.example.booking.Server;
+import com.example.booking.admission.AdmissionControl;
+import com.example.booking.admission.AdmissionRejectedException;
+import com.example.booking.enums.RoomType;
+import com.example.booking.enums.UserRole;
+import com.example.booking.models.Reservation;
+import com.example.booking.models.Room;
+import com.example.booking.models.User;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fills a {@link Server} with the hotel described by a trace and plays the
+ * trace's events against it. Workers pull events in trace order, so a single
+ * thread replays a trace deterministically.
+ */
+public final class WorkloadRunner {
+    static final int FIRST_ROOM_NUMBER = 1_000;
+
+    private enum Outcome {
+        SUCCEEDED,
+        REJECTED,
+        // the targeted booking is gone or not made yet, so nothing was sent to the server
+        SKIPPED
+    }
+
+    private final Server server;
+    private final WorkloadTrace trace;
+    private final Assignment assignment;
+    // null sends mutations straight to the server
+    private final AdmissionControl admission;
+    private final List<User> users;
+    private final LocalDate horizonStart;
+
+    public WorkloadRunner(Server server, WorkloadTrace trace) {
+        this(server, trace, Assignment.BEST_FIT);
+    }
+
+    public WorkloadRunner(Server server, WorkloadTrace trace, Assignment assignment) {
+        this(server, trace, assignment, null);
+    }
+
+    /** Sends bookings, conflicts and deletes through the admission control instead of calling the server. */
+    public WorkloadRunner(Server server, WorkloadTrace trace, AdmissionControl admission) {
+        this(server, trace, Assignment.BEST_FIT, admission);
+    }
+
+    private WorkloadRunner(Server server, WorkloadTrace trace, Assignment assignment, AdmissionControl admission) {
+        this.server = server;
+        this.trace = trace;
+        this.assignment = assignment;
+        this.admission = admission;
+        this.users = new ArrayList<>(trace.getUsers());
+        // start tomorrow so no stay is rejected as being in the past
+        this.horizonStart = LocalDate.now().plusDays(1);
+
+        for (int i = 0; i < trace.getUsers(); i++) {
+            User user = new User("load-user-" + i, UserRole.USER);
+            server.addUser(user);
+            users.add(user);
+        }
+        int number = FIRST_ROOM_NUMBER;
+        for (Map.Entry<RoomType, Integer> rooms : trace.getRoomsPerType().entrySet()) {
+            for (int i = 0; i < rooms.getValue(); i++, number++) {
+                server.addRoom(new Room(number, rooms.getKey()));
+            }
+        }
+    }
+
+    public WorkloadReport run(int threads, boolean virtualThreads) throws InterruptedException {
+        return run(threads, virtualThreads, 0);
+    }
+
+    /** Like {@link #run(int, boolean)}, but each worker pauses for the think time after every event. */
+    public WorkloadReport run(int threads, boolean virtualThreads, long thinkNanos) throws InterruptedException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        List<TraceEvent> events = trace.getEvents();
+        long[] latencies = new long[events.size()];
+        Outcome[] outcomes = new Outcome[events.size()];
+        AtomicReferenceArray<Reservation> booked = new AtomicReferenceArray<>(events.size());
+        AtomicInteger cursor = new AtomicInteger();
+
+        Runnable worker = () -> {
+            for (int i = cursor.getAndIncrement(); i < events.size(); i = cursor.getAndIncrement()) {
+                long start = System.nanoTime();
+                outcomes[i] = execute(i, events.get(i), booked);
+                latencies[i] = System.nanoTime() - start;
+                if (thinkNanos > 0) {
+                    LockSupport.parkNanos(thinkNanos);
+                }
+            }
+        };
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(worker));
+            }
+            for (Future<?> future : workers) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Workload worker failed", e.getCause());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new WorkloadReport(threads, virtualThreads, elapsed, occupancy(),
+                summarize(events, latencies, outcomes));
+    }
+
+    private Outcome execute(int index, TraceEvent event, AtomicReferenceArray<Reservation> booked) {
+        User user = users.get(event.getUserIndex());
+        LocalDate from = horizonStart.plusDays(event.getFromDay());
+        LocalDate to = from.plusDays(event.getNights());
+
+        try {
+            switch (event.getOperation()) {
+                case BOOK -> {
+                    Reservation reservation = assignment == Assignment.BEST_FIT
+                            ? assignAndReserve(user, event.getRoomType(), from, to)
+                            : firstFit(user, event.getRoomType(), from, to);
+                    if (reservation == null) return Outcome.REJECTED;
+                    booked.set(index, reservation);
+                }
+                case CONFLICT -> {
+                    Reservation existing = booked.get(event.getTarget());
+                    if (existing == null) return Outcome.SKIPPED;
+                    addReservation(user, new Reservation(user.getId(), existing.getRoomId(),
+                            existing.getFrom(), existing.getFrom().plusDays(event.getNights())));
+                }
+                case DELETE -> {
+                    Reservation existing = booked.getAndSet(event.getTarget(), null);
+                    if (existing == null) return Outcome.SKIPPED;
+                    // deleted by whoever made the booking
+                    deleteReservation(users.get(trace.getEvents().get(event.getTarget()).getUserIndex()), existing);
+                }
+                case LOOKUP -> {
+                    if (server.getFreeRooms(event.getRoomType(), from, to).isEmpty()) return Outcome.REJECTED;
+                }
+            }
+            return Outcome.SUCCEEDED;
+        } catch (IllegalArgumentException | AdmissionRejectedException rejected) {
+            return Outcome.REJECTED;
+        }
+    }
+
+    private Reservation assignAndReserve(User user, RoomType type, LocalDate from, LocalDate to) {
+        return admission == null
+                ? server.assignAndReserve(user.getId(), type, from, to)
+                : admission.assignAndReserve(user, type, from, to);
+    }
+
+    private void addReservation(User user, Reservation reservation) {
+        if (admission == null) {
+            server.addReservation(reservation);
+        } else {
+            admission.addReservation(user, reservation);
+        }
+    }
+
+    private void deleteReservation(User user, Reservation reservation) {
+        if (admission == null) {
+            server.deleteReservation(reservation);
+        } else {
+            admission.deleteReservation(user, reservation);
+        }
+    }
+
+    private Reservation firstFit(User user, RoomType type, LocalDate from, LocalDate to) {
+        for (Room room : server.getRooms()) {
+            if (room.getType() != type) continue;
+            Reservation reservation = new Reservation(user.getId(), room.getNumber(), from, to);
+            try {
+                addReservation(user, reservation);
+                return reservation;
+            } catch (IllegalArgumentException occupied) {
+                // try the next room
+            }
+        }
+        return null;
+    }
+
+    private double occupancy() {
+        LocalDate horizonEnd = horizonStart.plusDays(trace.getHorizonDays());
+        long bookedNights = 0;
+        for (Reservation reservation : server.getReservations()) {
+            if (reservation.getRoomId() < FIRST_ROOM_NUMBER || reservation.getFrom().isAfter(horizonEnd)) continue;
+            LocalDate to = reservation.getTo().isAfter(horizonEnd) ? horizonEnd : reservation.getTo();
+            bookedNights += ChronoUnit.DAYS.between(reservation.getFrom(), to);
+        }
+        return (double) bookedNights / ((long) trace.roomCount() * trace.getHorizonDays());
+    }
+
+    private static Map<Operation, LatencyStats> summarize(List<TraceEvent> events, long[] latencies,
+                                                          Outcome[] outcomes) {
+        Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            long[] operationLatencies = new long[latencies.length];
+            int count = 0;
+            int ok = 0;
+            int skipped = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                if (events.get(i).getOperation() != operation) continue;
+                if (outcomes[i] == Outcome.SKIPPED) {
+                    skipped++;
+                    continue;
+                }
+                operationLatencies[count++] = latencies[i];
+                if (outcomes[i] == Outcome.SUCCEEDED) ok++;
+            }
+            stats.put(operation, LatencyStats.of(Arrays.copyOf(operationLatencies, count), ok, skipped));
+        }
+        return stats;
+    }
+}
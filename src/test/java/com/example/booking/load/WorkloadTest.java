@@ -0,0 +1,173 @@
+package com.example.booking.load;
+
+import com.example.booking.TestServers;
+import com.example.booking.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkloadTest {
+    private WorkloadConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = WorkloadConfig.builder()
+                .seed(7)
+                .roomsPerType(Map.of(RoomType.ECONOMY, 20, RoomType.LUX, 10, RoomType.PRESIDENTIAL, 5))
+                .users(50)
+                .horizonDays(60)
+                .operations(5_000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Same seed generates the same trace")
+    void testGeneratorIsDeterministic() {
+        WorkloadTrace first = new WorkloadGenerator(config).generate();
+        WorkloadTrace second = new WorkloadGenerator(config).generate();
+
+        assertEquals(first, second);
+        assertEquals(5_000, first.getEvents().size());
+        assertEquals(35, first.roomCount());
+    }
+
+    @Test
+    @DisplayName("Trace does not depend on the iteration order of the room map")
+    void testGeneratorIgnoresRoomMapOrder() {
+        Map<RoomType, Integer> reversed = new LinkedHashMap<>();
+        reversed.put(RoomType.PRESIDENTIAL, 5);
+        reversed.put(RoomType.LUX, 10);
+        reversed.put(RoomType.ECONOMY, 20);
+
+        WorkloadTrace trace = new WorkloadGenerator(config).generate();
+        WorkloadTrace reversedTrace = new WorkloadGenerator(config.toBuilder().roomsPerType(reversed).build()).generate();
+
+        assertEquals(trace, reversedTrace);
+    }
+
+    @Test
+    @DisplayName("Invalid configuration throws exception")
+    void testGeneratorRejectsInvalidConfig() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkloadGenerator(config.toBuilder().seasonality(1.5).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkloadGenerator(config.toBuilder()
+                        .bookWeight(0).conflictWeight(0).deleteWeight(0).lookupWeight(0).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkloadGenerator(config.toBuilder().users(0).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkloadGenerator(config.toBuilder().roomsPerType(Map.of()).build()));
+    }
+
+    @Test
+    @DisplayName("Generated trace follows the operation mix")
+    void testGeneratorOperationMix() {
+        WorkloadTrace trace = new WorkloadGenerator(config).generate();
+
+        long lookups = trace.getEvents().stream().filter(e -> e.getOperation() == Operation.LOOKUP).count();
+        long deletes = trace.getEvents().stream().filter(e -> e.getOperation() == Operation.DELETE).count();
+
+        assertTrue(lookups > 800 && lookups < 1200, "About 20% of operations should be lookups");
+        assertTrue(deletes > 300 && deletes < 700, "About 10% of operations should be deletes");
+        assertTrue(trace.getEvents().stream()
+                .filter(e -> e.getOperation() == Operation.DELETE || e.getOperation() == Operation.CONFLICT)
+                .allMatch(e -> trace.getEvents().get(e.getTarget()).getOperation() == Operation.BOOK));
+    }
+
+    @Test
+    @DisplayName("Recorded trace replays with identical results")
+    void testRecordAndReplay(@TempDir Path dir) throws Exception {
+        WorkloadTrace trace = new WorkloadGenerator(config).generate();
+        Path file = dir.resolve("trace.csv");
+        trace.write(file);
+
+        WorkloadTrace replayed = WorkloadTrace.read(file);
+        assertEquals(trace, replayed);
+
+        WorkloadReport original = new WorkloadRunner(TestServers.fresh(), trace).run(1, false);
+        WorkloadReport replay = new WorkloadRunner(TestServers.fresh(), replayed).run(1, false);
+
+        assertEquals(original.getOccupancy(), replay.getOccupancy());
+        assertEquals(0, original.getStats().get(Operation.CONFLICT).getSucceeded(),
+                "Overlapping stays must never be accepted");
+        LatencyStats conflicts = original.getStats().get(Operation.CONFLICT);
+        long conflictEvents = trace.getEvents().stream().filter(e -> e.getOperation() == Operation.CONFLICT).count();
+        assertEquals(conflictEvents, conflicts.getCount() + conflicts.getSkipped());
+        assertTrue(conflicts.getSkipped() > 0, "Conflicts on failed or deleted bookings are skipped");
+        for (Operation operation : Operation.values()) {
+            assertEquals(original.getStats().get(operation).getSucceeded(),
+                    replay.getStats().get(operation).getSucceeded(), operation + " outcomes differ");
+            assertEquals(original.getStats().get(operation).getSkipped(),
+                    replay.getStats().get(operation).getSkipped(), operation + " skips differ");
+        }
+    }
+
+    @Test
+    @DisplayName("Reading a trace rejects lines that cannot be replayed")
+    void testReadRejectsInvalidTrace(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("trace.csv");
+        String header = "hotel,users=2,horizon=30,ECONOMY=1";
+        String book = "BOOK,0,ECONOMY,3,2,-1";
+
+        assertRejected(file, 1, "hotel,users=2,horizon,ECONOMY=1", book);
+        assertRejected(file, 1, "hotel,horizon=30,ECONOMY=1", book);
+        assertRejected(file, 1, "hotel,users=2,ECONOMY=1", book);
+        assertRejected(file, 1, "hotel,users=2,horizon=30", book);
+        assertRejected(file, 1, "hotel,users=2,horizon=30,SUITE=1", book);
+        assertRejected(file, 2, header, "BOOK,2,ECONOMY,3,2,-1");
+        assertRejected(file, 2, header, "BOOK,0,ECONOMY,-3,2,-1");
+        assertRejected(file, 2, header, "BOOK,0,ECONOMY,3,2,0");
+        assertRejected(file, 3, header, book, "DELETE,0,ECONOMY,3,x,0");
+        assertRejected(file, 3, header, book, "DELETE,0,ECONOMY,3,2,-1");
+        assertRejected(file, 3, header, book, "DELETE,0,ECONOMY,3,2,1");
+        assertRejected(file, 4, header, book, "LOOKUP,0,ECONOMY,3,2,-1", "CONFLICT,0,ECONOMY,3,2,1");
+
+        Files.write(file, List.of(header, book, "CONFLICT,1,ECONOMY,4,1,0", "DELETE,0,ECONOMY,3,2,0"));
+        assertEquals(3, WorkloadTrace.read(file).getEvents().size());
+    }
+
+    private static void assertRejected(Path file, int badLine, String... lines) throws Exception {
+        Files.write(file, List.of(lines));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> WorkloadTrace.read(file), String.join(" / ", lines));
+        assertTrue(exception.getMessage().startsWith(file + ":" + badLine + ": "), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Workload runs on platform and virtual threads")
+    void testConcurrentRun() throws Exception {
+        WorkloadTrace trace = new WorkloadGenerator(config).generate();
+
+        WorkloadReport platform = new WorkloadRunner(TestServers.fresh(), trace).run(8, false);
+        WorkloadReport virtual = new WorkloadRunner(TestServers.fresh(), trace).run(64, true);
+
+        for (WorkloadReport report : new WorkloadReport[]{platform, virtual}) {
+            assertEquals(5_000, report.operations());
+            assertTrue(report.getOccupancy() > 0 && report.getOccupancy() <= 1);
+            assertTrue(report.getStats().get(Operation.BOOK).getP99() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Best-fit assignment books at least as much as first-fit")
+    void testBestFitVersusFirstFit() throws Exception {
+        WorkloadTrace trace = new WorkloadGenerator(config).generate();
+
+        WorkloadReport bestFit = new WorkloadRunner(TestServers.fresh(), trace, Assignment.BEST_FIT).run(1, false);
+        WorkloadReport firstFit = new WorkloadRunner(TestServers.fresh(), trace, Assignment.FIRST_FIT).run(1, false);
+
+        assertTrue(bestFit.getOccupancy() >= firstFit.getOccupancy(),
+                "Best fit occupancy " + bestFit.getOccupancy() + " below first fit " + firstFit.getOccupancy());
+        assertTrue(bestFit.getStats().get(Operation.BOOK).getSucceeded()
+                >= firstFit.getStats().get(Operation.BOOK).getSucceeded());
+    }
+}
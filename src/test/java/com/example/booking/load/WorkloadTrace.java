@@ -0,0 +1,111 @@
+package com.example.booking.load;
+
+import com.example.booking.enums.RoomType;
+import lombok.Value;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hotel shape and request sequence of a workload. Written as plain text: a
+ * header line with the hotel and one {@link TraceEvent} per line after it.
+ */
+@Value
+public class WorkloadTrace {
+    Map<RoomType, Integer> roomsPerType;
+    int users;
+    int horizonDays;
+    List<TraceEvent> events;
+
+    public int roomCount() {
+        int count = 0;
+        for (int rooms : roomsPerType.values()) count += rooms;
+        return count;
+    }
+
+    public void write(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("hotel,users=" + users + ",horizon=" + horizonDays);
+            for (Map.Entry<RoomType, Integer> rooms : roomsPerType.entrySet()) {
+                writer.write("," + rooms.getKey() + "=" + rooms.getValue());
+            }
+            writer.newLine();
+            for (TraceEvent event : events) {
+                writer.write(event.format());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads a trace written by {@link #write}, rejecting any line that could not
+     * be replayed: unknown users, and CONFLICT or DELETE events that do not
+     * target an earlier BOOK. Errors name the file and line.
+     */
+    public static WorkloadTrace read(Path path) throws IOException, IllegalArgumentException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String header = reader.readLine();
+            if (header == null || !header.startsWith("hotel,")) {
+                throw new IllegalArgumentException("Missing hotel header in " + path);
+            }
+
+            Map<RoomType, Integer> roomsPerType = new EnumMap<>(RoomType.class);
+            int users = 0;
+            int horizonDays = 0;
+            try {
+                for (String field : header.substring("hotel,".length()).split(",")) {
+                    String[] pair = field.split("=");
+                    if (pair.length != 2) {
+                        throw new IllegalArgumentException("Malformed header field: " + field);
+                    }
+                    int value = Integer.parseInt(pair[1]);
+                    if (value < 0) {
+                        throw new IllegalArgumentException("Negative header field: " + field);
+                    }
+                    switch (pair[0]) {
+                        case "users" -> users = value;
+                        case "horizon" -> horizonDays = value;
+                        default -> roomsPerType.put(RoomType.valueOf(pair[0]), value);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(path + ":1: " + e.getMessage(), e);
+            }
+            if (users <= 0 || horizonDays <= 0) {
+                throw new IllegalArgumentException(path + ":1: users and horizon must be given and positive");
+            }
+            if (roomsPerType.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+                throw new IllegalArgumentException(path + ":1: the hotel has no rooms");
+            }
+
+            List<TraceEvent> events = new ArrayList<>();
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                try {
+                    TraceEvent event = TraceEvent.parse(line);
+                    if (event.getUserIndex() >= users) {
+                        throw new IllegalArgumentException("User " + event.getUserIndex() + " out of range: " + line);
+                    }
+                    if (event.getTarget() >= events.size()
+                            || event.getTarget() >= 0 && events.get(event.getTarget()).getOperation() != Operation.BOOK) {
+                        throw new IllegalArgumentException("Target is not an earlier BOOK event: " + line);
+                    }
+                    events.add(event);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(path + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+            return new WorkloadTrace(roomsPerType, users, horizonDays, Collections.unmodifiableList(events));
+        }
+    }
+}